@@ -0,0 +1,6 @@
+package com.example.ledger.audit;
+
+public enum AuditFullPolicy {
+    BLOCK,
+    DROP
+}
@@ -0,0 +1,191 @@
+package com.example.ledger.audit;
+
+import com.example.ledger.config.AuditProperties;
+import com.example.ledger.dto.TransferRequest;
+import com.example.ledger.model.TransferStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Records every transfer outcome as a JSON line. Transfer threads only copy references into a preallocated
+ * ring buffer; a background thread renders and writes the records to rolling files in batches.
+ * Records that never reach the file, because the buffer was full under {@link AuditFullPolicy#DROP}, a batch
+ * could not be rendered or written, the writer thread died, or they were still buffered at shutdown, are counted in
+ * {@link #getDroppedCount()}. A failing batch never stops the writer; it logs and keeps draining.
+ */
+@Slf4j
+@Component
+public class AuditLogger {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final AuditProperties properties;
+    private final AuditRingBuffer buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicInteger activeProducers = new AtomicInteger();
+    private final StringBuilder batch = new StringBuilder();
+    private int batchRecords;
+    private final Consumer<AuditRecord> appender = record -> {
+        record.appendJson(batch);
+        batchRecords++;
+    };
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private RollingAuditFile file;
+    private long reportedDrops;
+    private long lastDropReportNanos;
+
+    public AuditLogger(AuditProperties properties) {
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer(properties.capacity());
+        this.lastDropReportNanos = System.nanoTime() - DROP_REPORT_INTERVAL_NANOS;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.enabled()) {
+            return;
+        }
+        file = new RollingAuditFile(Path.of(properties.directory()), properties.maxFileSize(), properties.maxFiles());
+        running = true;
+        writerThread = newWriterThread(this::drainLoop);
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit logging to {} with {} buffer slots, {} when full",
+                file.activeFile(), buffer.capacity(), properties.fullPolicy());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        LockSupport.unpark(writerThread);
+        writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (writerThread.isAlive()) {
+            log.error("Audit writer did not finish within {} ms, buffered records may be lost", SHUTDOWN_TIMEOUT_MILLIS);
+            return;
+        }
+        // The writer is gone, so this thread may act as the consumer; anything still buffered is lost
+        long leftover = buffer.drain(record -> { }, Integer.MAX_VALUE);
+        long drops = droppedCount.addAndGet(leftover);
+        if (drops > 0) {
+            log.warn("Audit logger stopped, {} records dropped in total", drops);
+        }
+    }
+
+    public void record(TransferRequest request, TransferStatus status, String message) {
+        // Registering before checking running lets the writer wait for in-flight producers on shutdown
+        activeProducers.incrementAndGet();
+        try {
+            if (!running) {
+                return;
+            }
+            long timestamp = System.currentTimeMillis();
+            while (!buffer.offer(timestamp, request.transferId(), request.fromAccountId(), request.toAccountId(),
+                    request.amount(), status, message)) {
+                // Blocking is pointless once nobody drains the buffer any more
+                if (properties.fullPolicy() == AuditFullPolicy.DROP || !running || !writerThread.isAlive()) {
+                    droppedCount.incrementAndGet();
+                    return;
+                }
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+        } finally {
+            activeProducers.decrementAndGet();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    Thread newWriterThread(Runnable drainLoop) {
+        return new Thread(drainLoop, "audit-writer");
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                if (drainBatch() == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                reportDrops();
+            } catch (RuntimeException | Error e) {
+                log.error("Audit writer iteration failed, continuing", e);
+            }
+        }
+        try {
+            // No producer can publish once running is false and the in-flight ones have left
+            while (activeProducers.get() > 0) {
+                if (drainBatch() == 0) {
+                    Thread.onSpinWait();
+                }
+            }
+            while (drainBatch() > 0) {
+                // flush everything published before shutdown
+            }
+        } finally {
+            try {
+                file.close();
+            } catch (IOException e) {
+                log.error("Failed to close audit file", e);
+            }
+        }
+    }
+
+    private int drainBatch() {
+        int drained;
+        try {
+            drained = buffer.drain(appender, properties.batchSize());
+        } catch (RuntimeException e) {
+            // The buffer has released the record that failed to render; it and the partial batch are lost
+            int lost = batchRecords + 1;
+            droppedCount.addAndGet(lost);
+            log.error("Failed to render audit batch, {} records dropped", lost, e);
+            batch.setLength(0);
+            batchRecords = 0;
+            return lost;
+        }
+        if (drained > 0) {
+            writeBatch();
+        }
+        return drained;
+    }
+
+    private void writeBatch() {
+        try {
+            file.write(batch);
+        } catch (IOException | RuntimeException e) {
+            droppedCount.addAndGet(batchRecords);
+            log.error("Failed to write audit batch, {} records dropped", batchRecords, e);
+        } finally {
+            batch.setLength(0);
+            batchRecords = 0;
+        }
+    }
+
+    private void reportDrops() {
+        long drops = droppedCount.get();
+        long now = System.nanoTime();
+        if (drops != reportedDrops && now - lastDropReportNanos >= DROP_REPORT_INTERVAL_NANOS) {
+            log.warn("Audit records dropped: {} in total, {} since last report", drops, drops - reportedDrops);
+            reportedDrops = drops;
+            lastDropReportNanos = now;
+        }
+    }
+}
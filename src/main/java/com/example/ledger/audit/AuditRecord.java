@@ -0,0 +1,76 @@
+package com.example.ledger.audit;
+
+import com.example.ledger.model.TransferStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Mutable ring buffer slot. Producers only copy references into it, the JSON is rendered on the writer thread.
+ */
+final class AuditRecord {
+    long timestamp;
+    String transferId;
+    Long fromAccountId;
+    Long toAccountId;
+    BigDecimal amount;
+    TransferStatus status;
+    String message;
+
+    void set(long timestamp, String transferId, Long fromAccountId, Long toAccountId,
+             BigDecimal amount, TransferStatus status, String message) {
+        this.timestamp = timestamp;
+        this.transferId = transferId;
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+        this.amount = amount;
+        this.status = status;
+        this.message = message;
+    }
+
+    void clear() {
+        set(0L, null, null, null, null, null, null);
+    }
+
+    void appendJson(StringBuilder out) {
+        out.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(timestamp), out);
+        out.append("\",\"transferId\":");
+        appendString(out, transferId);
+        out.append(",\"fromAccountId\":").append(fromAccountId);
+        out.append(",\"toAccountId\":").append(toAccountId);
+        out.append(",\"amount\":").append(amount == null ? "null" : amount.toPlainString());
+        out.append(",\"status\":");
+        appendString(out, status == null ? null : status.name());
+        out.append(",\"message\":");
+        appendString(out, message);
+        out.append("}\n");
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
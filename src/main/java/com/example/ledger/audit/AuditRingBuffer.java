@@ -0,0 +1,92 @@
+package com.example.ledger.audit;
+
+import com.example.ledger.model.TransferStatus;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer queue over preallocated {@link AuditRecord} slots.
+ * Each slot carries a sequence number: a producer may fill slot {@code i} once its sequence equals the claimed
+ * position, and the consumer may read it once the sequence is one past that position. Neither side allocates.
+ */
+final class AuditRingBuffer {
+    private final AuditRecord[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    AuditRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Audit buffer capacity must be positive: " + capacity);
+        }
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        slots = new AuditRecord[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new AuditRecord();
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    boolean offer(long timestamp, String transferId, Long fromAccountId, Long toAccountId,
+                  BigDecimal amount, TransferStatus status, String message) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index].set(timestamp, transferId, fromAccountId, toAccountId, amount, status, message);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Hands up to {@code max} published records to {@code consumer}. Must only be called from the writer thread.
+     * If the consumer throws, the record it failed on is still released and the exception propagates.
+     */
+    int drain(Consumer<AuditRecord> consumer, int max) {
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            AuditRecord record = slots[index];
+            try {
+                consumer.accept(record);
+            } finally {
+                // Release the slot even if the consumer failed, so one bad record cannot wedge the buffer
+                record.clear();
+                sequences.set(index, head + slots.length);
+                head++;
+            }
+            drained++;
+        }
+        return drained;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+}
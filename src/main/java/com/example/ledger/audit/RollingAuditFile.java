@@ -0,0 +1,97 @@
+package com.example.ledger.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends to {@code audit.log} and rolls it to {@code audit.1.log}, {@code audit.2.log}, ... once it grows past
+ * the configured size, keeping at most {@code maxFiles} rolled files. A failed roll never stops auditing: the
+ * active file is reopened and appended to, and the roll is retried after the next write.
+ */
+@Slf4j
+final class RollingAuditFile implements Closeable {
+    private static final String BASE_NAME = "audit";
+
+    private final Path directory;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private OutputStream out;
+    private long size;
+
+    RollingAuditFile(Path directory, long maxFileSize, int maxFiles) throws IOException {
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        Files.createDirectories(directory);
+        open();
+    }
+
+    void write(CharSequence batch) throws IOException {
+        if (out == null) {
+            open();
+        }
+        byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+        out.write(bytes);
+        out.flush();
+        size += bytes.length;
+        if (size >= maxFileSize) {
+            try {
+                roll();
+            } catch (IOException e) {
+                log.warn("Failed to roll {}, appending to it until the next attempt", activeFile(), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    Path activeFile() {
+        return directory.resolve(BASE_NAME + ".log");
+    }
+
+    Path rolledFile(int index) {
+        return directory.resolve(BASE_NAME + "." + index + ".log");
+    }
+
+    private void open() throws IOException {
+        Path active = activeFile();
+        out = new BufferedOutputStream(Files.newOutputStream(active, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        size = Files.size(active);
+    }
+
+    private void roll() throws IOException {
+        close();
+        try {
+            if (maxFiles > 0) {
+                Files.deleteIfExists(rolledFile(maxFiles));
+                for (int i = maxFiles - 1; i >= 1; i--) {
+                    if (Files.exists(rolledFile(i))) {
+                        Files.move(rolledFile(i), rolledFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                    }
+                }
+                Files.move(activeFile(), rolledFile(1), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(activeFile());
+            }
+        } finally {
+            // A fresh file after a successful roll, the old one again if a rename failed;
+            // if even this fails, the next write retries
+            open();
+        }
+    }
+}
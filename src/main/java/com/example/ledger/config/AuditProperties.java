@@ -0,0 +1,27 @@
+package com.example.ledger.config;
+
+import com.example.ledger.audit.AuditFullPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the asynchronous transfer audit log.
+ *
+ * @param enabled     whether transfer outcomes are audited
+ * @param capacity    number of preallocated ring buffer slots, rounded up to a power of two
+ * @param batchSize   maximum number of records written per batch by the background writer
+ * @param fullPolicy  what a transfer thread does when the ring buffer is full; {@code DROP} loses records under load
+ * @param directory   directory the rolling audit files are written to
+ * @param maxFileSize size in bytes after which the active file is rolled
+ * @param maxFiles    number of rolled files kept next to the active one
+ */
+@ConfigurationProperties(prefix = "ledger.audit")
+public record AuditProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("8192") int capacity,
+        @DefaultValue("512") int batchSize,
+        @DefaultValue("BLOCK") AuditFullPolicy fullPolicy,
+        @DefaultValue("logs/audit") String directory,
+        @DefaultValue("10485760") long maxFileSize,
+        @DefaultValue("10") int maxFiles) {
+}
@@ -0,0 +1,26 @@
+package com.example.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the optional binary ingest endpoint.
+ *
+ * @param enabled        whether the ingest socket is opened at all
+ * @param port           TCP port to listen on, {@code 0} picks a free port
+ * @param workerThreads  number of threads applying decoded transfers
+ * @param queueCapacity  decoded transfers waiting for a worker; when full, connections stop being read
+ * @param maxInFlight    requests per connection whose responses have not been written yet before it stops being read
+ * @param readBufferSize per-connection read buffer size in bytes
+ * @param sendBufferSize per-connection socket send buffer in bytes, {@code 0} keeps the OS default
+ */
+@ConfigurationProperties(prefix = "ledger.ingest")
+public record IngestProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("9091") int port,
+        @DefaultValue("8") int workerThreads,
+        @DefaultValue("1024") int queueCapacity,
+        @DefaultValue("256") int maxInFlight,
+        @DefaultValue("65536") int readBufferSize,
+        @DefaultValue("0") int sendBufferSize) {
+}
@@ -0,0 +1,21 @@
+package com.example.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the startup warm-up phase that runs before {@code /health} reports OK.
+ *
+ * @param enabled      whether the warm-up runs at all
+ * @param hotAccounts  maximum number of recently active accounts loaded into the database cache
+ * @param lookbackDays how far back ledger activity is considered when picking hot accounts
+ * @param iterations   number of synthetic transfers run through the transfer path, high enough by default
+ *                     for HotSpot to C2-compile it
+ */
+@ConfigurationProperties(prefix = "ledger.warmup")
+public record WarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int hotAccounts,
+        @DefaultValue("1") int lookbackDays,
+        @DefaultValue("15000") int iterations) {
+}
@@ -2,22 +2,29 @@ package com.example.ledger.controller;
 
 import com.example.ledger.dto.AccountResponse;
 import com.example.ledger.dto.CreateAccountRequest;
+import com.example.ledger.dto.TurnoverResponse;
 import com.example.ledger.model.Account;
 import com.example.ledger.service.AccountService;
+import com.example.ledger.service.TurnoverService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/v1/accounts")
 @RequiredArgsConstructor
 public class AccountController {
     private final AccountService accountService;
+    private final TurnoverService turnoverService;
 
     @PostMapping
     public ResponseEntity<AccountResponse> create(@RequestBody CreateAccountRequest request) {
@@ -30,5 +37,12 @@ public class AccountController {
         Account account = accountService.getAccount(id);
         return ResponseEntity.ok(new AccountResponse(account.getId(), account.getBalance()));
     }
+
+    @GetMapping("/{id}/turnover")
+    public ResponseEntity<TurnoverResponse> turnover(@PathVariable Long id,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(turnoverService.getTurnover(id, from, to));
+    }
 }
 
@@ -1,14 +1,22 @@
 package com.example.ledger.controller;
 
+import com.example.ledger.service.WarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
+    private final WarmupService warmupService;
+
     @GetMapping("/health")
     public ResponseEntity<String> health() {
+        if (!warmupService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("WARMING_UP");
+        }
         return ResponseEntity.ok("OK");
     }
 }
-
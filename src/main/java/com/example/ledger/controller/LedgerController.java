@@ -1,5 +1,6 @@
 package com.example.ledger.controller;
 
+import com.example.ledger.audit.AuditLogger;
 import com.example.ledger.dto.TransferRequest;
 import com.example.ledger.dto.TransferResponse;
 import com.example.ledger.model.TransferStatus;
@@ -17,15 +18,17 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class LedgerController {
     private final LedgerService ledgerService;
+    private final AuditLogger auditLogger;
 
     @PostMapping("/transfer")
     public ResponseEntity<TransferResponse> transfer(@RequestBody TransferRequest request) {
         try {
             TransferResponse response = ledgerService.applyTransfer(request);
+            auditLogger.record(request, response.status(), response.message());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
+            auditLogger.record(request, TransferStatus.FAILURE, e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new TransferResponse(TransferStatus.FAILURE, e.getMessage()));
         }
     }
 }
-
@@ -0,0 +1,8 @@
+package com.example.ledger.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyTurnoverResponse(LocalDate date, BigDecimal debitTotal, long debitCount,
+                                    BigDecimal creditTotal, long creditCount) {
+}
@@ -0,0 +1,16 @@
+package com.example.ledger.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Turnover of an account over a date range. Rollups are only maintained from {@code coveredFrom} on, the first
+ * day any rollup was written (that day itself may be partial); entries before it were not backfilled and are
+ * not included in the totals. {@code coveredFrom} is {@code null} while no rollup exists yet.
+ */
+public record TurnoverResponse(Long accountId, LocalDate from, LocalDate to, LocalDate coveredFrom,
+                               BigDecimal debitTotal, long debitCount,
+                               BigDecimal creditTotal, long creditCount,
+                               List<DailyTurnoverResponse> days) {
+}
@@ -0,0 +1,9 @@
+package com.example.ledger.exception;
+
+import java.time.LocalDate;
+
+public class InvalidDateRangeException extends RuntimeException {
+    public InvalidDateRangeException(LocalDate from, LocalDate to) {
+        super("Date range start " + from + " is after end " + to);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.ledger.ingest;
+
+import com.example.ledger.dto.TransferRequest;
+import com.example.ledger.dto.TransferResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pipelining client for the binary ingest endpoint. {@link #submit} returns as soon as the request is written;
+ * a reader thread completes the returned future when the response with the matching correlation id arrives.
+ */
+public class IngestClient implements Closeable {
+    private final SocketChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(IngestProtocol.REQUEST_FRAME_LENGTH);
+    private final Map<Long, CompletableFuture<TransferResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong nextCorrelationId = new AtomicLong();
+    private final Thread reader;
+    private volatile boolean closed;
+
+    public IngestClient(String host, int port) throws IOException {
+        channel = SocketChannel.open(new InetSocketAddress(host, port));
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        reader = new Thread(this::readLoop, "ingest-client-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    public CompletableFuture<TransferResponse> submit(TransferRequest request) throws IOException {
+        if (closed) {
+            throw new IOException("Ingest client is closed");
+        }
+        long correlationId = nextCorrelationId.incrementAndGet();
+        CompletableFuture<TransferResponse> future = new CompletableFuture<>();
+        inFlight.put(correlationId, future);
+        // The reader may have failed all pending futures between the check above and the put
+        if (closed && inFlight.remove(correlationId) != null) {
+            IOException closedException = new IOException("Ingest client is closed");
+            future.completeExceptionally(closedException);
+            throw closedException;
+        }
+        try {
+            synchronized (writeBuffer) {
+                writeBuffer.clear();
+                IngestProtocol.writeRequest(writeBuffer, correlationId, request);
+                writeBuffer.flip();
+                while (writeBuffer.hasRemaining()) {
+                    channel.write(writeBuffer);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            inFlight.remove(correlationId);
+            throw e;
+        }
+        return future;
+    }
+
+    public TransferResponse send(TransferRequest request) throws IOException {
+        return submit(request).join();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+
+    private void readLoop() {
+        ByteBuffer buffer = ByteBuffer.allocate(IngestProtocol.MAX_RESPONSE_FRAME_LENGTH * 16);
+        IOException failure = new IOException("Ingest connection closed");
+        try {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.remaining() >= Integer.BYTES) {
+                    int length = buffer.getInt(buffer.position());
+                    if (buffer.remaining() < Integer.BYTES + length) {
+                        break;
+                    }
+                    buffer.getInt();
+                    IngestResponse response = IngestProtocol.readResponse(buffer);
+                    CompletableFuture<TransferResponse> future = inFlight.remove(response.correlationId());
+                    if (future != null) {
+                        future.complete(response.response());
+                    }
+                }
+                buffer.compact();
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                failure = e;
+            }
+        } catch (RuntimeException e) {
+            // e.g. a corrupt frame; the stream can no longer be trusted, so give up on every pending request
+            failure = new IOException("Failed to read ingest response", e);
+            try {
+                channel.close();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+        }
+        closed = true;
+        for (Long correlationId : inFlight.keySet()) {
+            CompletableFuture<TransferResponse> future = inFlight.remove(correlationId);
+            if (future != null) {
+                future.completeExceptionally(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.ledger.ingest;
+
+import com.example.ledger.dto.TransferRequest;
+import com.example.ledger.dto.TransferResponse;
+import com.example.ledger.model.TransferStatus;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wire format of the binary ingest endpoint. All integers are big-endian and every frame starts with an
+ * {@code int} payload length.
+ * <pre>
+ * request:  length | correlationId (8) | transferId (64, UTF-8, zero padded) | fromAccountId (8)
+ *                  | toAccountId (8) | amount unscaled value (8) | amount scale (1)
+ * response: length | correlationId (8) | status (1) | message length (2) | message (UTF-8)
+ * </pre>
+ * Requests may be pipelined; responses can arrive in any order and are matched by correlation id.
+ */
+public final class IngestProtocol {
+    public static final int TRANSFER_ID_LENGTH = 64;
+    public static final int REQUEST_PAYLOAD_LENGTH = Long.BYTES + TRANSFER_ID_LENGTH + 3 * Long.BYTES + Byte.BYTES;
+    public static final int REQUEST_FRAME_LENGTH = Integer.BYTES + REQUEST_PAYLOAD_LENGTH;
+    public static final int MAX_MESSAGE_LENGTH = 1024;
+    public static final int MAX_RESPONSE_FRAME_LENGTH = Integer.BYTES + Long.BYTES + Byte.BYTES + Short.BYTES + MAX_MESSAGE_LENGTH;
+
+    private static final byte STATUS_SUCCESS = 0;
+    private static final byte STATUS_FAILURE = 1;
+
+    private IngestProtocol() {
+    }
+
+    public static void writeRequest(ByteBuffer out, long correlationId, TransferRequest request) {
+        if (request.transferId() == null || request.fromAccountId() == null
+                || request.toAccountId() == null || request.amount() == null) {
+            throw new IllegalArgumentException("Binary ingest requires transferId, account ids and amount");
+        }
+        byte[] transferId = request.transferId().getBytes(StandardCharsets.UTF_8);
+        if (transferId.length > TRANSFER_ID_LENGTH) {
+            throw new IllegalArgumentException("Transfer id longer than " + TRANSFER_ID_LENGTH + " bytes: " + request.transferId());
+        }
+        BigDecimal amount = request.amount();
+        if (amount.scale() < Byte.MIN_VALUE || amount.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Amount scale out of range: " + amount);
+        }
+
+        out.putInt(REQUEST_PAYLOAD_LENGTH);
+        out.putLong(correlationId);
+        out.put(transferId);
+        for (int i = transferId.length; i < TRANSFER_ID_LENGTH; i++) {
+            out.put((byte) 0);
+        }
+        out.putLong(request.fromAccountId());
+        out.putLong(request.toAccountId());
+        out.putLong(amount.unscaledValue().longValueExact());
+        out.put((byte) amount.scale());
+    }
+
+    /**
+     * Reads a request payload; the length prefix must already have been consumed.
+     */
+    public static IngestRequest readRequest(ByteBuffer in) {
+        long correlationId = in.getLong();
+        byte[] transferId = new byte[TRANSFER_ID_LENGTH];
+        in.get(transferId);
+        int transferIdLength = 0;
+        while (transferIdLength < TRANSFER_ID_LENGTH && transferId[transferIdLength] != 0) {
+            transferIdLength++;
+        }
+        long fromAccountId = in.getLong();
+        long toAccountId = in.getLong();
+        BigDecimal amount = BigDecimal.valueOf(in.getLong(), in.get());
+
+        TransferRequest request = new TransferRequest(new String(transferId, 0, transferIdLength, StandardCharsets.UTF_8),
+                fromAccountId, toAccountId, amount);
+        return new IngestRequest(correlationId, request);
+    }
+
+    public static ByteBuffer encodeResponse(long correlationId, TransferResponse response) {
+        byte[] message = response.message() == null ? new byte[0] : response.message().getBytes(StandardCharsets.UTF_8);
+        int messageLength = Math.min(message.length, MAX_MESSAGE_LENGTH);
+        // Never cut a multi-byte UTF-8 sequence: back up while the first dropped byte is a continuation byte
+        while (messageLength > 0 && messageLength < message.length && (message[messageLength] & 0xC0) == 0x80) {
+            messageLength--;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(Integer.BYTES + Long.BYTES + Byte.BYTES + Short.BYTES + messageLength);
+        out.putInt(out.capacity() - Integer.BYTES);
+        out.putLong(correlationId);
+        out.put(response.status() == TransferStatus.SUCCESS ? STATUS_SUCCESS : STATUS_FAILURE);
+        out.putShort((short) messageLength);
+        out.put(message, 0, messageLength);
+        return out.flip();
+    }
+
+    /**
+     * Reads a response payload; the length prefix must already have been consumed.
+     */
+    public static IngestResponse readResponse(ByteBuffer in) {
+        long correlationId = in.getLong();
+        TransferStatus status = in.get() == STATUS_SUCCESS ? TransferStatus.SUCCESS : TransferStatus.FAILURE;
+        byte[] message = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(message);
+        return new IngestResponse(correlationId, new TransferResponse(status, new String(message, StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.ledger.ingest;
+
+import com.example.ledger.dto.TransferRequest;
+
+public record IngestRequest(long correlationId, TransferRequest transfer) {
+}
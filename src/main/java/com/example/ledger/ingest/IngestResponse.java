@@ -0,0 +1,6 @@
+package com.example.ledger.ingest;
+
+import com.example.ledger.dto.TransferResponse;
+
+public record IngestResponse(long correlationId, TransferResponse response) {
+}
@@ -0,0 +1,351 @@
+package com.example.ledger.ingest;
+
+import com.example.ledger.audit.AuditLogger;
+import com.example.ledger.config.IngestProperties;
+import com.example.ledger.dto.TransferResponse;
+import com.example.ledger.model.TransferStatus;
+import com.example.ledger.service.LedgerService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accepts length-prefixed binary transfer requests (see {@link IngestProtocol}) on a separate NIO socket and feeds
+ * them to the same {@link LedgerService} as the REST endpoint. A single selector thread decodes frames and writes
+ * responses; ledger work only ever runs on the worker pool.
+ * <p>
+ * Backpressure is applied per connection by clearing {@code OP_READ} on that connection's key, so TCP pushes back
+ * on that producer only, when either
+ * <ul>
+ *     <li>it has {@code maxInFlight} requests whose responses have not been written to the socket yet, which also
+ *     bounds the queued responses of a producer that does not read them, or</li>
+ *     <li>the worker queue is full; the decoded frame is kept on the connection and resubmitted once a worker
+ *     finishes.</li>
+ * </ul>
+ * A producer may half-close its side once it has sent everything: the server stops reading, still answers every
+ * request it received, and closes the connection after the last response is written.
+ * <p>
+ * The socket is opened only once the application is ready, i.e. after the startup warm-up.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ledger.ingest", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class IngestServer {
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final LedgerService ledgerService;
+    private final AuditLogger auditLogger;
+    private final IngestProperties properties;
+
+    private final Queue<Connection> completed = new ConcurrentLinkedQueue<>();
+    private final Deque<Connection> waitingForWorkers = new ArrayDeque<>();
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private ThreadPoolExecutor workers;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(properties.port()));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        workers = new ThreadPoolExecutor(properties.workerThreads(), properties.workerThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                runnable -> new Thread(runnable, "ingest-worker-" + workerIndex.incrementAndGet()));
+
+        running = true;
+        selectorThread = new Thread(this::selectLoop, "ingest-selector");
+        selectorThread.start();
+        log.info("Binary ingest listening on port {}", getPort());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (selectorThread != null) {
+            selector.wakeup();
+            selectorThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        if (workers != null) {
+            workers.shutdown();
+            workers.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("Ingest socket is not bound", e);
+        }
+    }
+
+    private void selectLoop() {
+        while (running) {
+            try {
+                selector.select();
+
+                Connection connection;
+                while ((connection = completed.poll()) != null) {
+                    updateInterest(connection);
+                }
+                resubmitWaiting();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            } catch (ClosedSelectorException e) {
+                log.error("Binary ingest selector closed unexpectedly, stopping ingest", e);
+                running = false;
+            } catch (IOException | RuntimeException e) {
+                log.error("Binary ingest selector loop failed", e);
+            }
+        }
+        closeAll();
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            // Never close the listening socket because a single accept failed
+            try {
+                accept();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to accept ingest connection", e);
+            }
+            return;
+        }
+        try {
+            if (key.isReadable()) {
+                read(key);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write(key);
+            }
+        } catch (IOException e) {
+            log.debug("Closing ingest connection after I/O error", e);
+            close(key);
+        } catch (RuntimeException e) {
+            log.warn("Closing ingest connection after unexpected error", e);
+            close(key);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        if (properties.sendBufferSize() > 0) {
+            channel.setOption(StandardSocketOptions.SO_SNDBUF, properties.sendBufferSize());
+        }
+        int bufferSize = Math.max(properties.readBufferSize(), IngestProtocol.REQUEST_FRAME_LENGTH);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(key, bufferSize));
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        if (connection.channel().read(connection.readBuffer) < 0) {
+            // The producer has finished sending; answer what it already sent, then close
+            connection.inputClosed = true;
+        }
+        dispatch(connection);
+    }
+
+    /**
+     * Decodes and submits buffered frames until the buffer runs dry, the connection reaches its in-flight cap or
+     * the worker queue is full, then recomputes the interest set.
+     */
+    private void dispatch(Connection connection) throws IOException {
+        if (connection.parked != null && !submit(connection, connection.parked)) {
+            updateInterest(connection);
+            return;
+        }
+        connection.parked = null;
+
+        ByteBuffer buffer = connection.readBuffer;
+        buffer.flip();
+        try {
+            while (connection.inFlight < properties.maxInFlight() && buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt(buffer.position());
+                if (length != IngestProtocol.REQUEST_PAYLOAD_LENGTH) {
+                    log.warn("Closing ingest connection {}: unexpected frame length {}", connection.channel().getRemoteAddress(), length);
+                    close(connection.key);
+                    return;
+                }
+                if (buffer.remaining() < Integer.BYTES + length) {
+                    break;
+                }
+                buffer.getInt();
+                IngestRequest request = IngestProtocol.readRequest(buffer);
+                connection.inFlight++;
+                if (!submit(connection, request)) {
+                    connection.parked = request;
+                    if (!waitingForWorkers.contains(connection)) {
+                        waitingForWorkers.add(connection);
+                    }
+                    break;
+                }
+            }
+        } finally {
+            buffer.compact();
+        }
+        updateInterest(connection);
+    }
+
+    private boolean submit(Connection connection, IngestRequest request) {
+        try {
+            workers.execute(() -> process(connection, request));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void resubmitWaiting() {
+        while (!waitingForWorkers.isEmpty()) {
+            Connection connection = waitingForWorkers.peek();
+            if (connection.key.isValid()) {
+                try {
+                    dispatch(connection);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Closing ingest connection after unexpected error", e);
+                    close(connection.key);
+                }
+                if (connection.parked != null && connection.key.isValid()) {
+                    // Still no room in the worker queue, keep it first in line
+                    return;
+                }
+            }
+            waitingForWorkers.poll();
+        }
+    }
+
+    private void process(Connection connection, IngestRequest request) {
+        TransferResponse response;
+        try {
+            response = ledgerService.applyTransfer(request.transfer());
+        } catch (Exception e) {
+            response = new TransferResponse(TransferStatus.FAILURE, e.getMessage());
+        }
+        auditLogger.record(request.transfer(), response.status(), response.message());
+
+        connection.outbound.add(IngestProtocol.encodeResponse(request.correlationId(), response));
+        completed.add(connection);
+        selector.wakeup();
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer pending;
+        while ((pending = connection.outbound.peek()) != null) {
+            connection.channel().write(pending);
+            if (pending.hasRemaining()) {
+                break;
+            }
+            connection.outbound.poll();
+            connection.inFlight--;
+        }
+        // Written responses may have brought the connection back under its cap
+        dispatch(connection);
+    }
+
+    private void updateInterest(Connection connection) {
+        SelectionKey key = connection.key;
+        if (!key.isValid()) {
+            return;
+        }
+        if (connection.inputClosed && connection.inFlight == 0 && connection.outbound.isEmpty()) {
+            close(key);
+            return;
+        }
+        int ops = 0;
+        if (!connection.inputClosed && connection.parked == null && connection.inFlight < properties.maxInFlight()) {
+            ops |= SelectionKey.OP_READ;
+        }
+        // Responses queued after this point re-arm OP_WRITE through the completed queue
+        if (!connection.outbound.isEmpty()) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        key.interestOps(ops);
+    }
+
+    private void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            log.debug("Failed to close ingest channel", e);
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            close(key);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.debug("Failed to close ingest selector", e);
+        }
+    }
+
+    /**
+     * Per-connection state. Everything except {@link #outbound} is only touched by the selector thread.
+     */
+    private static final class Connection {
+        private final SelectionKey key;
+        private final ByteBuffer readBuffer;
+        private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+        private int inFlight;
+        private IngestRequest parked;
+        private boolean inputClosed;
+
+        private Connection(SelectionKey key, int bufferSize) {
+            this.key = key;
+            this.readBuffer = ByteBuffer.allocate(bufferSize);
+        }
+
+        private SocketChannel channel() {
+            return (SocketChannel) key.channel();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.ledger.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"accountId", "turnoverDate"}),
+        indexes = @Index(columnList = "turnoverDate"))
+@Getter
+@NoArgsConstructor
+public class DailyTurnover {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private LocalDate turnoverDate;
+
+    @Column(nullable = false)
+    private BigDecimal debitTotal = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private long debitCount;
+
+    @Column(nullable = false)
+    private BigDecimal creditTotal = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private long creditCount;
+
+    public DailyTurnover(Long accountId, LocalDate turnoverDate) {
+        this.accountId = accountId;
+        this.turnoverDate = turnoverDate;
+    }
+
+    public void apply(EntryType type, BigDecimal amount) {
+        switch (type) {
+            case DEBIT -> {
+                debitTotal = debitTotal.add(amount);
+                debitCount++;
+            }
+            case CREDIT -> {
+                creditTotal = creditTotal.add(amount);
+                creditCount++;
+            }
+        }
+    }
+}
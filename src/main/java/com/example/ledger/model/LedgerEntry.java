@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
@@ -17,7 +18,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"transferId", "accountId"}))
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"transferId", "accountId"}),
+        indexes = @Index(columnList = "createdAt"))
 @NoArgsConstructor
 @Getter
 @Immutable
@@ -0,0 +1,18 @@
+package com.example.ledger.repository;
+
+import com.example.ledger.model.DailyTurnover;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyTurnoverRepository extends JpaRepository<DailyTurnover, Long> {
+    Optional<DailyTurnover> findByAccountIdAndTurnoverDate(Long accountId, LocalDate turnoverDate);
+
+    List<DailyTurnover> findByAccountIdAndTurnoverDateBetweenOrderByTurnoverDate(Long accountId, LocalDate from, LocalDate to);
+
+    @Query("select min(t.turnoverDate) from DailyTurnover t")
+    LocalDate findEarliestTurnoverDate();
+}
@@ -1,11 +1,18 @@
 package com.example.ledger.repository;
 
 import com.example.ledger.model.LedgerEntry;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
     Optional<List<LedgerEntry>> findByTransferId(String transferId);
+
+    @Query("select e.accountId from LedgerEntry e where e.createdAt >= :since group by e.accountId order by count(e) desc")
+    List<Long> findMostActiveAccountIds(@Param("since") LocalDateTime since, Pageable pageable);
 }
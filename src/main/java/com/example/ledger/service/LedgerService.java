@@ -4,11 +4,13 @@ import com.example.ledger.dto.TransferRequest;
 import com.example.ledger.dto.TransferResponse;
 import com.example.ledger.exception.AccountNotFoundException;
 import com.example.ledger.model.Account;
+import com.example.ledger.model.DailyTurnover;
 import com.example.ledger.model.EntryType;
 import com.example.ledger.model.LedgerEntry;
 import com.example.ledger.model.Transfer;
 import com.example.ledger.model.TransferStatus;
 import com.example.ledger.repository.AccountRepository;
+import com.example.ledger.repository.DailyTurnoverRepository;
 import com.example.ledger.repository.LedgerEntryRepository;
 import com.example.ledger.repository.TransferRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -16,6 +18,8 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -25,6 +29,7 @@ public class LedgerService {
     private final AccountRepository accountRepository;
     private final LedgerEntryRepository ledgerRepository;
     private final TransferRepository transferRepository;
+    private final DailyTurnoverRepository turnoverRepository;
 
 
     @Transactional
@@ -69,8 +74,19 @@ public class LedgerService {
     }
 
     private void saveLedgerEntries(TransferRequest request, Account fromAccount, Account toAccount) {
-        ledgerRepository.save(new LedgerEntry(request.transferId(), fromAccount.getId(), request.amount(), EntryType.DEBIT, LocalDateTime.now()));
-        ledgerRepository.save(new LedgerEntry(request.transferId(), toAccount.getId(), request.amount(), EntryType.CREDIT, LocalDateTime.now()));
+        LocalDateTime createdAt = LocalDateTime.now();
+        ledgerRepository.save(new LedgerEntry(request.transferId(), fromAccount.getId(), request.amount(), EntryType.DEBIT, createdAt));
+        ledgerRepository.save(new LedgerEntry(request.transferId(), toAccount.getId(), request.amount(), EntryType.CREDIT, createdAt));
+        updateTurnover(fromAccount.getId(), EntryType.DEBIT, request.amount(), createdAt.toLocalDate());
+        updateTurnover(toAccount.getId(), EntryType.CREDIT, request.amount(), createdAt.toLocalDate());
+    }
+
+    // Both accounts are already locked FOR UPDATE, so the read-modify-write of their rollups cannot race
+    private void updateTurnover(Long accountId, EntryType type, BigDecimal amount, LocalDate date) {
+        DailyTurnover turnover = turnoverRepository.findByAccountIdAndTurnoverDate(accountId, date)
+                .orElseGet(() -> new DailyTurnover(accountId, date));
+        turnover.apply(type, amount);
+        turnoverRepository.save(turnover);
     }
 
     private void updateBalances(TransferRequest request, Account fromAccount, Account toAccount) {
@@ -0,0 +1,49 @@
+package com.example.ledger.service;
+
+import com.example.ledger.dto.DailyTurnoverResponse;
+import com.example.ledger.dto.TurnoverResponse;
+import com.example.ledger.exception.InvalidDateRangeException;
+import com.example.ledger.model.DailyTurnover;
+import com.example.ledger.repository.DailyTurnoverRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TurnoverService {
+    private final AccountService accountService;
+    private final DailyTurnoverRepository turnoverRepository;
+
+    public TurnoverResponse getTurnover(Long accountId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException(from, to);
+        }
+        accountService.getAccount(accountId);
+
+        List<DailyTurnover> rollups = turnoverRepository.findByAccountIdAndTurnoverDateBetweenOrderByTurnoverDate(accountId, from, to);
+
+        BigDecimal debitTotal = BigDecimal.ZERO;
+        BigDecimal creditTotal = BigDecimal.ZERO;
+        long debitCount = 0;
+        long creditCount = 0;
+        for (DailyTurnover rollup : rollups) {
+            debitTotal = debitTotal.add(rollup.getDebitTotal());
+            creditTotal = creditTotal.add(rollup.getCreditTotal());
+            debitCount += rollup.getDebitCount();
+            creditCount += rollup.getCreditCount();
+        }
+
+        List<DailyTurnoverResponse> days = rollups.stream()
+                .map(rollup -> new DailyTurnoverResponse(rollup.getTurnoverDate(),
+                        rollup.getDebitTotal(), rollup.getDebitCount(),
+                        rollup.getCreditTotal(), rollup.getCreditCount()))
+                .toList();
+
+        LocalDate coveredFrom = turnoverRepository.findEarliestTurnoverDate();
+        return new TurnoverResponse(accountId, from, to, coveredFrom, debitTotal, debitCount, creditTotal, creditCount, days);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.ledger.service;
+
+import com.example.ledger.config.WarmupProperties;
+import com.example.ledger.dto.TransferRequest;
+import com.example.ledger.dto.TransferResponse;
+import com.example.ledger.model.Account;
+import com.example.ledger.model.TransferStatus;
+import com.example.ledger.repository.AccountRepository;
+import com.example.ledger.repository.DailyTurnoverRepository;
+import com.example.ledger.repository.LedgerEntryRepository;
+import com.example.ledger.repository.TransferRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Warms caches, query plans and the JIT for the transfer path before the service reports itself healthy.
+ * All synthetic transfers run against one pair of scratch accounts inside a single transaction that is always
+ * rolled back, so no warm-up data is ever committed. Rolled-back inserts still consume identity values on
+ * databases such as Postgres: two account ids per start, plus one transfer and two ledger entry ids per iteration.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarmupService implements ApplicationRunner {
+    private static final String WARMUP_TRANSFER_PREFIX = "warmup-";
+    private static final BigDecimal SCRATCH_AMOUNT = BigDecimal.ONE;
+    // Keeps the persistence context, and with it auto-flush dirty checking, from growing with every iteration
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final AccountRepository accountRepository;
+    private final LedgerEntryRepository ledgerRepository;
+    private final TransferRepository transferRepository;
+    private final DailyTurnoverRepository turnoverRepository;
+    private final LedgerService ledgerService;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final WarmupProperties properties;
+
+    private volatile boolean ready;
+    private volatile WarmupReport lastReport;
+
+    public record WarmupReport(long durationMillis, int hotAccountsLoaded, int queriesPrepared,
+                               int iterations, long transferMillis, int successfulTransfers, int failedTransfers) {
+        public double microsPerIteration() {
+            return iterations == 0 ? 0 : transferMillis * 1000.0 / iterations;
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            log.info("Warm-up disabled, reporting ready immediately");
+            ready = true;
+            return;
+        }
+        try {
+            lastReport = warmUp();
+            log.info("Warm-up completed in {} ms: {} hot accounts loaded, {} repository queries prepared, "
+                            + "{} synthetic transfers in {} ms ({} us/transfer, {} successful, {} failed)",
+                    lastReport.durationMillis(), lastReport.hotAccountsLoaded(), lastReport.queriesPrepared(),
+                    lastReport.iterations(), lastReport.transferMillis(), String.format("%.1f", lastReport.microsPerIteration()),
+                    lastReport.successfulTransfers(), lastReport.failedTransfers());
+        } catch (RuntimeException e) {
+            log.warn("Warm-up aborted, continuing with a cold transfer path", e);
+        } finally {
+            ready = true;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public WarmupReport getLastReport() {
+        return lastReport;
+    }
+
+    WarmupReport warmUp() {
+        long start = System.nanoTime();
+
+        int hotAccounts = loadHotAccounts();
+        int queries = prepareRepositoryQueries();
+
+        long transferStart = System.nanoTime();
+        int[] outcomes = new TransactionTemplate(transactionManager).execute(txStatus -> {
+            txStatus.setRollbackOnly();
+            return applyScratchTransfers();
+        });
+
+        long end = System.nanoTime();
+        return new WarmupReport((end - start) / 1_000_000, hotAccounts, queries,
+                properties.iterations(), (end - transferStart) / 1_000_000, outcomes[0], outcomes[1]);
+    }
+
+    /**
+     * Reads the recently active accounts in one batch so their rows are in the database cache. This is a plain
+     * read-only query; no row locks are taken on accounts that live traffic on other instances is using.
+     */
+    private int loadHotAccounts() {
+        if (properties.hotAccounts() <= 0) {
+            return 0;
+        }
+        LocalDateTime since = LocalDateTime.now().minusDays(properties.lookbackDays());
+        List<Long> ids = ledgerRepository.findMostActiveAccountIds(since, PageRequest.of(0, properties.hotAccounts()));
+        return ids.isEmpty() ? 0 : accountRepository.findAllById(ids).size();
+    }
+
+    private int prepareRepositoryQueries() {
+        String missingTransferId = WARMUP_TRANSFER_PREFIX + "missing";
+        LocalDate today = LocalDate.now();
+        List<Runnable> queries = List.of(
+                () -> transferRepository.findByTransferId(missingTransferId),
+                () -> ledgerRepository.findByTransferId(missingTransferId),
+                () -> accountRepository.findById(-1L),
+                () -> turnoverRepository.findByAccountIdAndTurnoverDateBetweenOrderByTurnoverDate(-1L, today, today),
+                turnoverRepository::findEarliestTurnoverDate);
+        queries.forEach(Runnable::run);
+        return queries.size();
+    }
+
+    /**
+     * @return the number of successful and failed transfers
+     */
+    private int[] applyScratchTransfers() {
+        int iterations = properties.iterations();
+        // Every success moves one unit; a failing amount exceeds the whole starting balance
+        BigDecimal startingBalance = BigDecimal.valueOf(iterations);
+        BigDecimal failingAmount = startingBalance.add(SCRATCH_AMOUNT);
+        Long fromId = newScratchAccount(startingBalance).getId();
+        Long toId = newScratchAccount(BigDecimal.ZERO).getId();
+
+        int[] outcomes = new int[2];
+        for (int i = 0; i < iterations; i++) {
+            // Alternate between the success and insufficient-funds branches so both get compiled
+            BigDecimal amount = (i % 2 == 0) ? SCRATCH_AMOUNT : failingAmount;
+            TransferRequest request = new TransferRequest(WARMUP_TRANSFER_PREFIX + UUID.randomUUID(), fromId, toId, amount);
+            TransferResponse response = ledgerService.applyTransfer(request);
+            outcomes[response.status() == TransferStatus.SUCCESS ? 0 : 1]++;
+
+            if ((i + 1) % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return outcomes;
+    }
+
+    private Account newScratchAccount(BigDecimal balance) {
+        Account account = new Account();
+        account.setBalance(balance);
+        return accountRepository.save(account);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.ledger.audit;
+
+import com.example.ledger.config.AuditProperties;
+import com.example.ledger.dto.TransferRequest;
+import com.example.ledger.model.TransferStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditLoggerTest {
+    private static final String TRANSFER_ID = "tx-123";
+    private static final BigDecimal TRANSFER_AMOUNT = BigDecimal.valueOf(40);
+    private static final int BUFFER_CAPACITY = 16;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Given a running audit logger, " +
+            "when transfer outcomes are recorded, " +
+            "then each outcome is written as one JSON line.")
+    void testRecordsWrittenAsJsonLines() throws Exception {
+        // given
+        AuditLogger auditLogger = new AuditLogger(properties(1024 * 1024, AuditFullPolicy.BLOCK));
+        auditLogger.start();
+        TransferRequest request = new TransferRequest(TRANSFER_ID, 1L, 2L, TRANSFER_AMOUNT);
+
+        // when
+        auditLogger.record(request, TransferStatus.SUCCESS, "Transfer successful");
+        auditLogger.record(request, TransferStatus.FAILURE, "Say \"no\"");
+        auditLogger.stop();
+
+        // then
+        List<String> lines = Files.readAllLines(directory.resolve("audit.log"));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"transferId\":\"tx-123\",\"fromAccountId\":1,\"toAccountId\":2,\"amount\":40"));
+        assertTrue(lines.get(0).contains("\"status\":\"SUCCESS\",\"message\":\"Transfer successful\""));
+        assertTrue(lines.get(1).contains("\"status\":\"FAILURE\",\"message\":\"Say \\\"no\\\"\""));
+        assertEquals(0, auditLogger.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Given a small maximum file size, " +
+            "when more records are written than fit in one file, " +
+            "then the active file is rolled and the number of rolled files is capped.")
+    void testFilesAreRolled() throws Exception {
+        // given
+        AuditLogger auditLogger = new AuditLogger(properties(64, AuditFullPolicy.BLOCK));
+        auditLogger.start();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            auditLogger.record(new TransferRequest("tx-" + i, 1L, 2L, TRANSFER_AMOUNT), TransferStatus.SUCCESS, "ok");
+        }
+        auditLogger.stop();
+
+        // then
+        assertTrue(Files.exists(directory.resolve("audit.1.log")));
+        assertTrue(Files.exists(directory.resolve("audit.2.log")));
+        assertFalse(Files.exists(directory.resolve("audit.3.log")));
+    }
+
+    @Test
+    @DisplayName("Given the DROP policy and a writer that never drains, " +
+            "when more records are recorded than the buffer holds, " +
+            "then the overflow and the records left at shutdown are counted as dropped.")
+    void testDropPolicyCountsDroppedRecords() throws Exception {
+        // given
+        AuditLogger auditLogger = new AuditLogger(properties(1024 * 1024, AuditFullPolicy.DROP)) {
+            @Override
+            Thread newWriterThread(Runnable drainLoop) {
+                return new Thread(() -> { });
+            }
+        };
+        auditLogger.start();
+        TransferRequest request = new TransferRequest(TRANSFER_ID, 1L, 2L, TRANSFER_AMOUNT);
+
+        // when
+        for (int i = 0; i < BUFFER_CAPACITY + 4; i++) {
+            auditLogger.record(request, TransferStatus.SUCCESS, "ok");
+        }
+
+        // then
+        assertEquals(4, auditLogger.getDroppedCount());
+        auditLogger.stop();
+        assertEquals(BUFFER_CAPACITY + 4, auditLogger.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Given the BLOCK policy and a writer thread that has died, " +
+            "when more records are recorded than the buffer holds, " +
+            "then producers drop and count the overflow instead of waiting forever.")
+    void testBlockPolicyDropsWhenWriterIsDead() throws Exception {
+        // given
+        AuditLogger auditLogger = new AuditLogger(properties(1024 * 1024, AuditFullPolicy.BLOCK)) {
+            @Override
+            Thread newWriterThread(Runnable drainLoop) {
+                return new Thread(() -> { });
+            }
+        };
+        auditLogger.start();
+        TransferRequest request = new TransferRequest(TRANSFER_ID, 1L, 2L, TRANSFER_AMOUNT);
+
+        // when
+        for (int i = 0; i < BUFFER_CAPACITY + 4; i++) {
+            auditLogger.record(request, TransferStatus.SUCCESS, "ok");
+        }
+
+        // then
+        assertEquals(4, auditLogger.getDroppedCount());
+        auditLogger.stop();
+    }
+
+    @Test
+    @DisplayName("Given the rolled file cannot be replaced, " +
+            "when the active file grows past its maximum size, " +
+            "then the roll fails but later records are still appended to the active file.")
+    void testFailedRollKeepsWriting() throws Exception {
+        // given a non-empty directory where the rolled file should go, so the roll cannot delete it
+        Path blocker = Files.createDirectories(directory.resolve("audit.1.log"));
+        Files.createFile(blocker.resolve("keep"));
+        RollingAuditFile file = new RollingAuditFile(directory, 16, 1);
+
+        // when
+        file.write("first line past the limit\n");
+        file.write("second\n");
+
+        // then
+        assertEquals(List.of("first line past the limit", "second"), Files.readAllLines(file.activeFile()));
+
+        // and once the blocker is gone the next write rolls again
+        Files.delete(blocker.resolve("keep"));
+        Files.delete(blocker);
+        file.write("third\n");
+        file.close();
+        assertEquals(List.of("first line past the limit", "second", "third"), Files.readAllLines(file.rolledFile(1)));
+        assertEquals(0, Files.size(file.activeFile()));
+    }
+
+    @Test
+    @DisplayName("Given a full ring buffer, " +
+            "when another record is offered, " +
+            "then it is rejected until the consumer drains a slot.")
+    void testRingBufferRejectsWhenFull() {
+        // given
+        AuditRingBuffer buffer = new AuditRingBuffer(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertTrue(buffer.offer(i, "tx-" + i, 1L, 2L, TRANSFER_AMOUNT, TransferStatus.SUCCESS, "ok"));
+        }
+
+        // when then
+        assertFalse(buffer.offer(4, "tx-4", 1L, 2L, TRANSFER_AMOUNT, TransferStatus.SUCCESS, "ok"));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(1, buffer.drain(record -> drained.add(record.transferId), 1));
+        assertEquals(List.of("tx-0"), drained);
+        assertTrue(buffer.offer(4, "tx-4", 1L, 2L, TRANSFER_AMOUNT, TransferStatus.SUCCESS, "ok"));
+
+        assertEquals(4, buffer.drain(record -> drained.add(record.transferId), 10));
+        assertEquals(List.of("tx-0", "tx-1", "tx-2", "tx-3", "tx-4"), drained);
+        assertTrue(buffer.isEmpty());
+    }
+
+    private AuditProperties properties(long maxFileSize, AuditFullPolicy fullPolicy) {
+        return new AuditProperties(true, BUFFER_CAPACITY, 4, fullPolicy, directory.toString(), maxFileSize, 2);
+    }
+}
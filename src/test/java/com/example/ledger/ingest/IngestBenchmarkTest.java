@@ -0,0 +1,115 @@
+package com.example.ledger.ingest;
+
+import com.example.ledger.dto.TransferRequest;
+import com.example.ledger.dto.TransferResponse;
+import com.example.ledger.model.Account;
+import com.example.ledger.model.TransferStatus;
+import com.example.ledger.repository.AccountRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares transfer throughput of the REST endpoint and the binary ingest endpoint against the same service.
+ * Excluded from {@code test}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"ledger.ingest.enabled=true", "ledger.ingest.port=0", "ledger.audit.enabled=false"})
+class IngestBenchmarkTest {
+    private static final int ACCOUNTS = 32;
+    private static final int WARMUP_TRANSFERS = 2_000;
+    private static final int MEASURED_TRANSFERS = 20_000;
+    private static final int REST_CLIENT_THREADS = 16;
+    private static final int INGEST_WINDOW = 512;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private IngestServer ingestServer;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    void compareRestAndBinaryIngestThroughput() throws Exception {
+        List<Long> accountIds = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = new Account();
+            account.setBalance(BigDecimal.valueOf(1_000_000_000L));
+            accountIds.add(accountRepository.save(account).getId());
+        }
+
+        runRest(accountIds, WARMUP_TRANSFERS);
+        long restNanos = runRest(accountIds, MEASURED_TRANSFERS);
+
+        try (IngestClient client = new IngestClient("localhost", ingestServer.getPort())) {
+            runIngest(client, accountIds, WARMUP_TRANSFERS);
+            long ingestNanos = runIngest(client, accountIds, MEASURED_TRANSFERS);
+
+            report("REST", restNanos);
+            report("Binary ingest", ingestNanos);
+        }
+    }
+
+    private long runRest(List<Long> accountIds, int transfers) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REST_CLIENT_THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<TransferResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < transfers; i++) {
+                TransferRequest request = nextRequest(accountIds, i);
+                futures.add(executor.submit(() -> restTemplate.postForObject("/v1/ledger/transfer", request, TransferResponse.class)));
+            }
+            for (Future<TransferResponse> future : futures) {
+                assertEquals(TransferStatus.SUCCESS, future.get().status());
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long runIngest(IngestClient client, List<Long> accountIds, int transfers) throws Exception {
+        Semaphore window = new Semaphore(INGEST_WINDOW);
+        List<CompletableFuture<TransferResponse>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < transfers; i++) {
+            window.acquire();
+            CompletableFuture<TransferResponse> future = client.submit(nextRequest(accountIds, i));
+            future.whenComplete((response, error) -> window.release());
+            futures.add(future);
+        }
+        for (CompletableFuture<TransferResponse> future : futures) {
+            assertEquals(TransferStatus.SUCCESS, future.join().status());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private TransferRequest nextRequest(List<Long> accountIds, int i) {
+        Long from = accountIds.get(i % ACCOUNTS);
+        Long to = accountIds.get((i + 1) % ACCOUNTS);
+        return new TransferRequest(UUID.randomUUID().toString(), from, to, BigDecimal.ONE);
+    }
+
+    private void report(String path, long nanos) {
+        double seconds = nanos / 1_000_000_000.0;
+        System.out.printf("%-14s %,d transfers in %,.0f ms (%,.0f transfers/s)%n",
+                path, MEASURED_TRANSFERS, seconds * 1000, MEASURED_TRANSFERS / seconds);
+    }
+}
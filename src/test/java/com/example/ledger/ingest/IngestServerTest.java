@@ -0,0 +1,260 @@
+package com.example.ledger.ingest;
+
+import com.example.ledger.dto.TransferRequest;
+import com.example.ledger.dto.TransferResponse;
+import com.example.ledger.model.Account;
+import com.example.ledger.model.TransferStatus;
+import com.example.ledger.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"ledger.ingest.enabled=true", "ledger.ingest.port=0",
+        "ledger.ingest.max-in-flight=" + IngestServerTest.MAX_IN_FLIGHT,
+        "ledger.ingest.read-buffer-size=4096", "ledger.ingest.send-buffer-size=4096"})
+class IngestServerTest {
+    static final int MAX_IN_FLIGHT = 8;
+    private static final int PIPELINED_TRANSFERS = 50;
+    private static final int HALF_CLOSED_TRANSFERS = 3 * MAX_IN_FLIGHT;
+    private static final int SOCKET_BUFFER_SIZE = 4096;
+    private static final int FRAME_LIMIT = 1_000_000;
+    private static final Duration STALL_TIME = Duration.ofSeconds(1);
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    @Autowired
+    private IngestServer ingestServer;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private IngestClient client;
+    private Account fromAccount;
+    private Account toAccount;
+
+    @BeforeEach
+    void setup() throws IOException {
+        fromAccount = new Account();
+        fromAccount.setBalance(BigDecimal.valueOf(100));
+        accountRepository.save(fromAccount);
+
+        toAccount = new Account();
+        toAccount.setBalance(BigDecimal.ZERO);
+        accountRepository.save(toAccount);
+
+        client = new IngestClient("localhost", ingestServer.getPort());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Given a binary transfer request, " +
+            "when it is sent twice with the same transferId, " +
+            "then it is applied once and the stored outcome is replayed.")
+    void testTransferAppliedOnce() throws IOException {
+        // given
+        TransferRequest request = new TransferRequest(UUID.randomUUID().toString(), fromAccount.getId(), toAccount.getId(), new BigDecimal("12.50"));
+
+        // when
+        TransferResponse first = client.send(request);
+        TransferResponse replay = client.send(request);
+
+        // then
+        assertEquals(TransferStatus.SUCCESS, first.status());
+        assertEquals("Transfer successful", first.message());
+        assertEquals(TransferStatus.SUCCESS, replay.status());
+        Account updatedFromAccount = accountRepository.findById(fromAccount.getId()).orElseThrow();
+        assertEquals(0, updatedFromAccount.getBalance().compareTo(new BigDecimal("87.50")));
+    }
+
+    @Test
+    @DisplayName("Given a binary transfer request for an unknown account, " +
+            "when it is sent, " +
+            "then a failure response carries the error message.")
+    void testUnknownAccount() throws IOException {
+        // given
+        TransferRequest request = new TransferRequest(UUID.randomUUID().toString(), fromAccount.getId(), -1L, BigDecimal.ONE);
+
+        // when
+        TransferResponse response = client.send(request);
+
+        // then
+        assertEquals(TransferStatus.FAILURE, response.status());
+        assertEquals("Account -1 not found", response.message());
+    }
+
+    @Test
+    @DisplayName("Given many pipelined binary transfer requests, " +
+            "when they are sent without waiting for responses, " +
+            "then each response is matched to its request and the balances stay consistent.")
+    void testPipelinedTransfers() throws IOException {
+        // given
+        List<CompletableFuture<TransferResponse>> responses = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < PIPELINED_TRANSFERS; i++) {
+            TransferRequest request = new TransferRequest(UUID.randomUUID().toString(), fromAccount.getId(), toAccount.getId(), BigDecimal.valueOf(3));
+            responses.add(client.submit(request));
+        }
+
+        // then
+        long successCount = responses.stream()
+                .map(CompletableFuture::join)
+                .filter(response -> response.status() == TransferStatus.SUCCESS)
+                .count();
+        assertEquals(33, successCount);
+        Account updatedToAccount = accountRepository.findById(toAccount.getId()).orElseThrow();
+        assertEquals(0, updatedToAccount.getBalance().compareTo(BigDecimal.valueOf(99)));
+    }
+
+    @Test
+    @DisplayName("Given a frame with an unexpected length prefix, " +
+            "when it is sent, " +
+            "then the server closes the connection.")
+    void testMalformedFrameClosesConnection() throws IOException {
+        try (Socket socket = new Socket("localhost", ingestServer.getPort())) {
+            // given
+            socket.setSoTimeout((int) TIMEOUT.toMillis());
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+
+            // when
+            out.writeInt(IngestProtocol.REQUEST_PAYLOAD_LENGTH + 1);
+            out.write(new byte[IngestProtocol.REQUEST_PAYLOAD_LENGTH + 1]);
+            out.flush();
+
+            // then
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    @DisplayName("Given a producer that half-closes its connection after sending more requests than the in-flight cap, " +
+            "when the server reads the end of stream, " +
+            "then every request is still answered before the server closes the connection.")
+    void testHalfClosedConnectionReceivesAllResponses() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", ingestServer.getPort()))) {
+                // given
+                ByteBuffer requests = ByteBuffer.allocate(HALF_CLOSED_TRANSFERS * IngestProtocol.REQUEST_FRAME_LENGTH);
+                for (int i = 0; i < HALF_CLOSED_TRANSFERS; i++) {
+                    IngestProtocol.writeRequest(requests, i, new TransferRequest(UUID.randomUUID().toString(), -1L, -2L, BigDecimal.ONE));
+                }
+                requests.flip();
+
+                // when
+                while (requests.hasRemaining()) {
+                    channel.write(requests);
+                }
+                channel.shutdownOutput();
+
+                // then
+                Set<Long> answered = new HashSet<>();
+                ByteBuffer responses = ByteBuffer.allocate(IngestProtocol.MAX_RESPONSE_FRAME_LENGTH * 16);
+                while (channel.read(responses) >= 0) {
+                    responses.flip();
+                    while (responses.remaining() >= Integer.BYTES
+                            && responses.remaining() >= Integer.BYTES + responses.getInt(responses.position())) {
+                        responses.getInt();
+                        answered.add(IngestProtocol.readResponse(responses).correlationId());
+                    }
+                    responses.compact();
+                }
+                assertEquals(HALF_CLOSED_TRANSFERS, answered.size());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Given a producer that pipelines requests without reading responses, " +
+            "when the unread responses fill the socket, " +
+            "then the server stops reading from it and resumes once the responses are consumed.")
+    void testUnreadResponsesApplyBackpressure() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            try (SocketChannel channel = SocketChannel.open()) {
+                // given
+                channel.setOption(StandardSocketOptions.SO_RCVBUF, SOCKET_BUFFER_SIZE);
+                channel.setOption(StandardSocketOptions.SO_SNDBUF, SOCKET_BUFFER_SIZE);
+                channel.connect(new InetSocketAddress("localhost", ingestServer.getPort()));
+                channel.configureBlocking(false);
+
+                // when: unknown accounts keep every transfer cheap for the server
+                ByteBuffer frame = ByteBuffer.allocate(IngestProtocol.REQUEST_FRAME_LENGTH).flip();
+                int started = 0;
+                long stalledSince = 0;
+                while (true) {
+                    if (!frame.hasRemaining()) {
+                        frame.clear();
+                        IngestProtocol.writeRequest(frame, started, new TransferRequest(UUID.randomUUID().toString(), -1L, -2L, BigDecimal.ONE));
+                        frame.flip();
+                        started++;
+                    }
+                    if (channel.write(frame) > 0) {
+                        stalledSince = 0;
+                    } else if (stalledSince == 0) {
+                        stalledSince = System.nanoTime();
+                    } else if (System.nanoTime() - stalledSince > STALL_TIME.toNanos()) {
+                        break;
+                    } else {
+                        Thread.sleep(10);
+                    }
+                    assertTrue(started < FRAME_LIMIT, "Server kept reading although no response was consumed");
+                }
+
+                // then: every started request is answered once the producer reads
+                channel.configureBlocking(true);
+                int expected = started;
+                Thread writer = new Thread(() -> {
+                    try {
+                        while (frame.hasRemaining()) {
+                            channel.write(frame);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.start();
+                ByteBuffer responses = ByteBuffer.allocate(IngestProtocol.MAX_RESPONSE_FRAME_LENGTH * 16);
+                int received = 0;
+                while (received < expected) {
+                    assertTrue(channel.read(responses) >= 0, "Connection closed after " + received + " responses");
+                    responses.flip();
+                    while (responses.remaining() >= Integer.BYTES
+                            && responses.remaining() >= Integer.BYTES + responses.getInt(responses.position())) {
+                        responses.getInt();
+                        assertEquals(TransferStatus.FAILURE, IngestProtocol.readResponse(responses).response().status());
+                        received++;
+                    }
+                    responses.compact();
+                }
+                writer.join();
+                assertEquals(expected, received);
+            }
+        });
+    }
+}
@@ -4,11 +4,13 @@ import com.example.ledger.dto.TransferRequest;
 import com.example.ledger.dto.TransferResponse;
 import com.example.ledger.exception.AccountNotFoundException;
 import com.example.ledger.model.Account;
+import com.example.ledger.model.DailyTurnover;
 import com.example.ledger.model.EntryType;
 import com.example.ledger.model.LedgerEntry;
 import com.example.ledger.model.Transfer;
 import com.example.ledger.model.TransferStatus;
 import com.example.ledger.repository.AccountRepository;
+import com.example.ledger.repository.DailyTurnoverRepository;
 import com.example.ledger.repository.LedgerEntryRepository;
 import com.example.ledger.repository.TransferRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -23,6 +25,7 @@ import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,10 +53,15 @@ class LedgerServiceTest {
     @Mock
     private TransferRepository transferRepository;
 
+    @Mock
+    private DailyTurnoverRepository dailyTurnoverRepository;
+
     @Captor
     private ArgumentCaptor<Account> accountCaptor;
     @Captor
     private ArgumentCaptor<LedgerEntry> ledgerEntryCaptor;
+    @Captor
+    private ArgumentCaptor<DailyTurnover> dailyTurnoverCaptor;
 
     @InjectMocks
     private LedgerService ledgerService;
@@ -130,6 +138,39 @@ class LedgerServiceTest {
         assertEquals(TRANSFER_ID, savedLedgerEntries.get(1).getTransferId());
     }
 
+    @Test
+    @DisplayName("Given a transfer request with a new transferId, " +
+            "and the from account already has turnover today, " +
+            "when applyTransfer is invoked, " +
+            "then the daily turnover rollups should be updated incrementally.")
+    void testDailyTurnoverUpdate() {
+        // given
+        DailyTurnover existingTurnover = new DailyTurnover(FROM_ACCOUNT_ID, LocalDate.now());
+        existingTurnover.apply(EntryType.DEBIT, BigDecimal.TEN);
+        when(transferRepository.findByTransferId(TRANSFER_ID)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(FROM_ACCOUNT_ID)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findByIdForUpdate(TO_ACCOUNT_ID)).thenReturn(Optional.of(toAccount));
+        when(dailyTurnoverRepository.findByAccountIdAndTurnoverDate(eq(FROM_ACCOUNT_ID), any())).thenReturn(Optional.of(existingTurnover));
+        when(dailyTurnoverRepository.findByAccountIdAndTurnoverDate(eq(TO_ACCOUNT_ID), any())).thenReturn(Optional.empty());
+
+        // when
+        ledgerService.applyTransfer(request);
+
+        // then
+        verify(dailyTurnoverRepository, times(2)).save(dailyTurnoverCaptor.capture());
+
+        List<DailyTurnover> savedTurnovers = dailyTurnoverCaptor.getAllValues();
+        assertEquals(FROM_ACCOUNT_ID, savedTurnovers.getFirst().getAccountId());
+        assertEquals(BigDecimal.valueOf(50), savedTurnovers.getFirst().getDebitTotal());
+        assertEquals(2, savedTurnovers.getFirst().getDebitCount());
+        assertEquals(0, savedTurnovers.getFirst().getCreditCount());
+
+        assertEquals(TO_ACCOUNT_ID, savedTurnovers.get(1).getAccountId());
+        assertEquals(TRANSFER_AMOUNT, savedTurnovers.get(1).getCreditTotal());
+        assertEquals(1, savedTurnovers.get(1).getCreditCount());
+        assertEquals(0, savedTurnovers.get(1).getDebitCount());
+    }
+
     @Test
     @DisplayName("Given a transfer request with a new transferId, " +
             "and from account does not has sufficient funds, " +
@@ -0,0 +1,88 @@
+package com.example.ledger.service;
+
+import com.example.ledger.dto.TurnoverResponse;
+import com.example.ledger.exception.AccountNotFoundException;
+import com.example.ledger.exception.InvalidDateRangeException;
+import com.example.ledger.model.DailyTurnover;
+import com.example.ledger.model.EntryType;
+import com.example.ledger.repository.DailyTurnoverRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class TurnoverServiceTest {
+    private static final Long ACCOUNT_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2026, 10, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 10, 31);
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private DailyTurnoverRepository dailyTurnoverRepository;
+
+    @InjectMocks
+    private TurnoverService turnoverService;
+
+    @Test
+    @DisplayName("Given daily rollups within the requested range, " +
+            "when getTurnover is invoked, " +
+            "then the range totals should be the sum of the daily rollups.")
+    void testTurnoverTotals() {
+        // given
+        DailyTurnover firstDay = new DailyTurnover(ACCOUNT_ID, FROM);
+        firstDay.apply(EntryType.DEBIT, BigDecimal.valueOf(40));
+        firstDay.apply(EntryType.CREDIT, BigDecimal.valueOf(15));
+        DailyTurnover secondDay = new DailyTurnover(ACCOUNT_ID, FROM.plusDays(3));
+        secondDay.apply(EntryType.DEBIT, BigDecimal.valueOf(10));
+        when(dailyTurnoverRepository.findByAccountIdAndTurnoverDateBetweenOrderByTurnoverDate(ACCOUNT_ID, FROM, TO))
+                .thenReturn(List.of(firstDay, secondDay));
+        when(dailyTurnoverRepository.findEarliestTurnoverDate()).thenReturn(FROM.minusDays(30));
+
+        // when
+        TurnoverResponse response = turnoverService.getTurnover(ACCOUNT_ID, FROM, TO);
+
+        // then
+        assertEquals(BigDecimal.valueOf(50), response.debitTotal());
+        assertEquals(2, response.debitCount());
+        assertEquals(BigDecimal.valueOf(15), response.creditTotal());
+        assertEquals(1, response.creditCount());
+        assertEquals(2, response.days().size());
+        assertEquals(FROM.plusDays(3), response.days().get(1).date());
+        assertEquals(FROM.minusDays(30), response.coveredFrom());
+    }
+
+    @Test
+    @DisplayName("Given a range whose start is after its end, " +
+            "when getTurnover is invoked, " +
+            "then InvalidDateRangeException should be thrown.")
+    void testInvalidRange() {
+        // when then
+        assertThrows(InvalidDateRangeException.class, () -> turnoverService.getTurnover(ACCOUNT_ID, TO, FROM));
+        verifyNoInteractions(dailyTurnoverRepository);
+    }
+
+    @Test
+    @DisplayName("Given an unknown account, " +
+            "when getTurnover is invoked, " +
+            "then AccountNotFoundException should be thrown.")
+    void testAccountNotFound() {
+        // given
+        when(accountService.getAccount(ACCOUNT_ID)).thenThrow(new AccountNotFoundException(ACCOUNT_ID));
+
+        // when then
+        assertThrows(AccountNotFoundException.class, () -> turnoverService.getTurnover(ACCOUNT_ID, FROM, TO));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.ledger.service;
+
+import com.example.ledger.config.WarmupProperties;
+import com.example.ledger.dto.TransferRequest;
+import com.example.ledger.dto.TransferResponse;
+import com.example.ledger.model.Account;
+import com.example.ledger.model.TransferStatus;
+import com.example.ledger.repository.AccountRepository;
+import com.example.ledger.repository.DailyTurnoverRepository;
+import com.example.ledger.repository.LedgerEntryRepository;
+import com.example.ledger.repository.TransferRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class WarmupServiceTest {
+    private static final int ITERATIONS = 4;
+    private static final Long HOT_ACCOUNT_ID = 7L;
+    private static final Long MISSING_ACCOUNT_ID = 8L;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Mock
+    private TransferRepository transferRepository;
+
+    @Mock
+    private DailyTurnoverRepository dailyTurnoverRepository;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<TransactionStatus> statusCaptor;
+
+    private final AtomicLong nextAccountId = new AtomicLong(100);
+
+    @BeforeEach
+    void setup() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> {
+            Account account = invocation.getArgument(0);
+            account.setId(nextAccountId.incrementAndGet());
+            return account;
+        });
+    }
+
+    private WarmupService warmupService(boolean enabled) {
+        WarmupProperties properties = new WarmupProperties(enabled, 10, 7, ITERATIONS);
+        return new WarmupService(accountRepository, ledgerEntryRepository, transferRepository, dailyTurnoverRepository,
+                ledgerService, transactionManager, entityManager, properties);
+    }
+
+    @Test
+    @DisplayName("Given warm-up is enabled, " +
+            "when the application starts, " +
+            "then hot accounts are loaded without locks, synthetic transfers run in one rolled-back transaction " +
+            "and the service becomes ready.")
+    void testWarmupRunsAndRollsBack() {
+        // given
+        Account hotAccount = new Account();
+        hotAccount.setId(HOT_ACCOUNT_ID);
+        when(ledgerEntryRepository.findMostActiveAccountIds(any(), any())).thenReturn(List.of(HOT_ACCOUNT_ID, MISSING_ACCOUNT_ID));
+        when(accountRepository.findAllById(List.of(HOT_ACCOUNT_ID, MISSING_ACCOUNT_ID))).thenReturn(List.of(hotAccount));
+        when(ledgerService.applyTransfer(any(TransferRequest.class)))
+                .thenReturn(new TransferResponse(TransferStatus.SUCCESS, "Transfer successful"))
+                .thenReturn(new TransferResponse(TransferStatus.FAILURE, "Account has insufficient funds"));
+        WarmupService warmupService = warmupService(true);
+
+        // when
+        assertFalse(warmupService.isReady());
+        warmupService.run(null);
+
+        // then
+        assertTrue(warmupService.isReady());
+        WarmupService.WarmupReport report = warmupService.getLastReport();
+        assertEquals(1, report.hotAccountsLoaded());
+        assertEquals(5, report.queriesPrepared());
+        assertEquals(ITERATIONS, report.iterations());
+        assertEquals(1, report.successfulTransfers());
+        assertEquals(ITERATIONS - 1, report.failedTransfers());
+
+        verify(accountRepository, never()).findByIdForUpdate(any());
+        verify(accountRepository, times(2)).save(any(Account.class));
+        verify(dailyTurnoverRepository).findEarliestTurnoverDate();
+        verify(ledgerService, times(ITERATIONS)).applyTransfer(any(TransferRequest.class));
+        verify(transactionManager).commit(statusCaptor.capture());
+        assertTrue(statusCaptor.getValue().isRollbackOnly());
+    }
+
+    @Test
+    @DisplayName("Given warm-up is disabled, " +
+            "when the application starts, " +
+            "then the service is ready without touching the repositories.")
+    void testWarmupDisabled() {
+        // given
+        WarmupService warmupService = warmupService(false);
+
+        // when
+        warmupService.run(null);
+
+        // then
+        assertTrue(warmupService.isReady());
+        verifyNoInteractions(ledgerEntryRepository, transferRepository, dailyTurnoverRepository, ledgerService);
+    }
+
+    @Test
+    @DisplayName("Given the warm-up fails, " +
+            "when the application starts, " +
+            "then the service still becomes ready.")
+    void testWarmupFailureStillReady() {
+        // given
+        when(ledgerEntryRepository.findMostActiveAccountIds(any(), any())).thenThrow(new IllegalStateException("db down"));
+        WarmupService warmupService = warmupService(true);
+
+        // when
+        warmupService.run(null);
+
+        // then
+        assertTrue(warmupService.isReady());
+        verify(ledgerService, never()).applyTransfer(any());
+    }
+}